@@ -1,4 +1,5 @@
 -- Drop existing tables if they exist (for clean restart)
+DROP TABLE IF EXISTS holds;
 DROP TABLE IF EXISTS transactions;
 DROP TABLE IF EXISTS accounts;
 
@@ -8,6 +9,8 @@ CREATE TABLE accounts (
                           owner_name  TEXT NOT NULL,
                           balance     NUMERIC(14,2) NOT NULL,
                           currency    VARCHAR(3) DEFAULT 'USD',
+                          credit_limit NUMERIC(14,2) NOT NULL DEFAULT 0,
+                          held_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
                           created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                           updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -25,6 +28,19 @@ CREATE TABLE transactions (
                               FOREIGN KEY (to_account_id) REFERENCES accounts(id)
 );
 
+-- Create holds table (authorized funds awaiting capture or release)
+CREATE TABLE holds (
+                       id              SERIAL PRIMARY KEY,
+                       from_account_id BIGINT NOT NULL,
+                       to_account_id   BIGINT NOT NULL,
+                       amount          NUMERIC(14,2) NOT NULL,
+                       currency        VARCHAR(3) NOT NULL,
+                       status          VARCHAR(20) NOT NULL,
+                       created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                       FOREIGN KEY (from_account_id) REFERENCES accounts(id),
+                       FOREIGN KEY (to_account_id) REFERENCES accounts(id)
+);
+
 -- Insert sample data
 INSERT INTO accounts(owner_name, balance, currency)
 VALUES
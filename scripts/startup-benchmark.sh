@@ -0,0 +1,92 @@
+#!/usr/bin/env bash
+# ──────────────────────────────────────────────────────────────────────────────
+# Startup benchmark: time-to-first-successful-transfer and RSS per variant
+#
+#   jvm       - plain fat JAR                       (./mvnw package)
+#   extracted - extracted JAR without CDS             (./mvnw -Pcds package)
+#   cds       - extracted JAR with the CDS archive    (./mvnw -Pcds package)
+#   native    - GraalVM native image                  (./mvnw -Pnative native:compile)
+#
+# Compare cds against extracted to see the CDS gain on its own. The cds variant
+# uses -Xshare:on, so an archive that does not match the classpath fails to start
+# instead of silently running without CDS.
+#
+# Usage: scripts/startup-benchmark.sh [variant ...]   (default: all built variants)
+# The database must be running (make up). Each run moves 0.01 from account 1 to 2.
+# Needs GNU date (Linux) for millisecond timestamps.
+# ──────────────────────────────────────────────────────────────────────────────
+set -euo pipefail
+
+APP_NAME=money-transfer-service-0.0.1-SNAPSHOT
+APP_PORT=${APP_PORT:-8080}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-60}
+TRANSFER='{"fromAccountId": 1, "toAccountId": 2, "amount": 0.01}'
+
+command_for() {
+  case "$1" in
+    jvm)       echo "java -jar target/$APP_NAME.jar" ;;
+    extracted) echo "java -jar target/cds/$APP_NAME.jar" ;;
+    cds)       echo "java -Xshare:on -XX:SharedArchiveFile=target/cds/application.jsa -jar target/cds/$APP_NAME.jar" ;;
+    native)    echo "target/money-transfer-service" ;;
+  esac
+}
+
+artifact_for() {
+  case "$1" in
+    jvm)       echo "target/$APP_NAME.jar" ;;
+    extracted) echo "target/cds/$APP_NAME.jar" ;;
+    cds)       echo "target/cds/application.jsa" ;;
+    native)    echo "target/money-transfer-service" ;;
+  esac
+}
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+run_variant() {
+  local variant=$1
+  local start pid elapsed rss
+
+  start=$(now_ms)
+  $(command_for "$variant") --server.port="$APP_PORT" > "target/startup-$variant.log" 2>&1 &
+  pid=$!
+
+  # Poll until a transfer succeeds (201 Created), not just until the port opens
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$APP_PORT/api/transfers" \
+              -H "Content-Type: application/json" -d "$TRANSFER")" = "201" ]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$variant: process exited, see target/startup-$variant.log" >&2
+      return 1
+    fi
+    if [ $(( $(now_ms) - start )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+      echo "$variant: no successful transfer within ${TIMEOUT_SECONDS}s" >&2
+      kill "$pid"; wait "$pid" 2>/dev/null || true
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  printf '%-10s %10s ms %10s MB\n' "$variant" "$elapsed" "$(( rss / 1024 ))"
+}
+
+variants=("$@")
+if [ ${#variants[@]} -eq 0 ]; then
+  variants=(jvm extracted cds native)
+fi
+
+printf '%-10s %13s %13s\n' "variant" "first-xfer" "rss"
+for variant in "${variants[@]}"; do
+  if [ -z "$(command_for "$variant")" ]; then
+    echo "Unknown variant: $variant" >&2
+    exit 1
+  fi
+  if [ ! -e "$(artifact_for "$variant")" ]; then
+    echo "$variant: skipped, $(artifact_for "$variant") not built"
+    continue
+  fi
+  run_variant "$variant" || true
+done
@@ -0,0 +1,33 @@
+package com.example.moneytransferservice;
+
+import com.example.moneytransferservice.model.Account;
+import com.example.moneytransferservice.model.Hold;
+import com.example.moneytransferservice.model.Transaction;
+import com.example.moneytransferservice.repository.AccountRepository;
+import com.example.moneytransferservice.repository.HoldRepository;
+import com.example.moneytransferservice.repository.TransactionRepository;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.BindingReflectionHintsRegistrar;
+
+/**
+ * Native image hints for the Spring Data JDBC mappings and repositories.
+ * Spring's AOT processing covers most of this; the hints make sure the
+ * entity mappings and the {@code @Query} methods stay reachable.
+ */
+public class MoneyTransferRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Entities are mapped from rows and serialized to JSON via reflection
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                Account.class, Transaction.class, Hold.class);
+
+        // Repository methods and their @Query/@Modifying annotations are read reflectively
+        for (Class<?> repository : new Class<?>[] {
+                AccountRepository.class, TransactionRepository.class, HoldRepository.class}) {
+            hints.reflection().registerType(repository, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.example.moneytransferservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(MoneyTransferRuntimeHints.class)
 public class MoneyTransferServiceApplication {
 
 	public static void main(String[] args) {
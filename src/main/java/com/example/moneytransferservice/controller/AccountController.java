@@ -8,7 +8,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -47,7 +49,30 @@ public class AccountController {
         }
         
         account.setId(id); // Ensure the ID is set correctly
-        Account updatedAccount = accountRepository.save(account);
-        return ResponseEntity.ok(updatedAccount);
+        accountRepository.save(account);
+        // Reload so the response shows the stored credit limit and held amount
+        return ResponseEntity.of(accountRepository.findById(id));
+    }
+
+    @PutMapping("/{id}/credit-limit")
+    public ResponseEntity<Account> updateCreditLimit(@PathVariable Long id,
+                                                     @RequestBody Map<String, Object> limitRequest) {
+        Object value = limitRequest.get("creditLimit");
+        if (value == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        BigDecimal creditLimit = new BigDecimal(value.toString());
+        if (creditLimit.compareTo(BigDecimal.ZERO) < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!accountRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // Refuse a limit the account is already past
+        if (accountRepository.updateCreditLimit(id, creditLimit) == 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.of(accountRepository.findById(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.moneytransferservice.controller;
+
+import com.example.moneytransferservice.exception.HoldNotAuthorizedException;
+import com.example.moneytransferservice.exception.HoldNotFoundException;
+import com.example.moneytransferservice.exception.InsufficientFundsException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Maps business rejections to client errors. Anything not handled here
+ * (including broken held amounts) still surfaces as a 500.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler({InsufficientFundsException.class, HoldNotAuthorizedException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handleConflict(RuntimeException e) {
+        return Map.of("error", e.getMessage());
+    }
+
+    @ExceptionHandler(HoldNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Map<String, String> handleNotFound(HoldNotFoundException e) {
+        return Map.of("error", e.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.moneytransferservice.controller;
+
+import com.example.moneytransferservice.model.Hold;
+import com.example.moneytransferservice.model.Transaction;
+import com.example.moneytransferservice.repository.HoldRepository;
+import com.example.moneytransferservice.service.HoldService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/holds")
+public class HoldController {
+
+    private final HoldService holdService;
+    private final HoldRepository holdRepository;
+
+    @Autowired
+    public HoldController(HoldService holdService,
+                          HoldRepository holdRepository) {
+        this.holdService = holdService;
+        this.holdRepository = holdRepository;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Hold createHold(@RequestBody Map<String, Object> holdRequest) {
+        Long fromAccountId = Long.valueOf(holdRequest.get("fromAccountId").toString());
+        Long toAccountId = Long.valueOf(holdRequest.get("toAccountId").toString());
+        BigDecimal amount = new BigDecimal(holdRequest.get("amount").toString());
+
+        return holdService.authorize(fromAccountId, toAccountId, amount);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Hold> getHoldById(@PathVariable Long id) {
+        Optional<Hold> hold = holdRepository.findById(id);
+        return hold.map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/capture")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Transaction captureHold(@PathVariable Long id) {
+        return holdService.capture(id);
+    }
+
+    @PostMapping("/{id}/release")
+    public Hold releaseHold(@PathVariable Long id) {
+        return holdService.release(id);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.moneytransferservice.exception;
+
+/**
+ * Thrown when a hold has already been captured or released
+ */
+public class HoldNotAuthorizedException extends RuntimeException {
+
+    public HoldNotAuthorizedException(Long holdId) {
+        super("Hold is not authorized: " + holdId);
+    }
+}
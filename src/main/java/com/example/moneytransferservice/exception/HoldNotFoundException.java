@@ -0,0 +1,11 @@
+package com.example.moneytransferservice.exception;
+
+/**
+ * Thrown when a hold ID does not exist
+ */
+public class HoldNotFoundException extends RuntimeException {
+
+    public HoldNotFoundException(Long holdId) {
+        super("Hold not found: " + holdId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.moneytransferservice.exception;
+
+/**
+ * Thrown when a debit or hold would take an account past its credit limit
+ */
+public class InsufficientFundsException extends RuntimeException {
+
+    public InsufficientFundsException(Long accountId) {
+        super("Insufficient funds in source account: " + accountId);
+    }
+}
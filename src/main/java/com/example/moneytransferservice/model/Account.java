@@ -1,8 +1,10 @@
 package com.example.moneytransferservice.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
@@ -18,6 +20,14 @@ public class Account {
     private String ownerName;
     private BigDecimal balance;
     private String currency;
+    // How far below zero the balance may go; only changed through the credit-limit endpoint
+    @ReadOnlyProperty
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal creditLimit = BigDecimal.ZERO;
+    // Sum of active holds; only ever changed by the hold update statements
+    @ReadOnlyProperty
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal heldAmount = BigDecimal.ZERO;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -67,6 +77,22 @@ public class Account {
         this.currency = currency;
     }
 
+    public BigDecimal getCreditLimit() {
+        return creditLimit;
+    }
+
+    public void setCreditLimit(BigDecimal creditLimit) {
+        this.creditLimit = creditLimit;
+    }
+
+    public BigDecimal getHeldAmount() {
+        return heldAmount;
+    }
+
+    public void setHeldAmount(BigDecimal heldAmount) {
+        this.heldAmount = heldAmount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -90,6 +116,8 @@ public class Account {
                 ", ownerName='" + ownerName + '\'' +
                 ", balance=" + balance +
                 ", currency='" + currency + '\'' +
+                ", creditLimit=" + creditLimit +
+                ", heldAmount=" + heldAmount +
                 '}';
     }
 }
\ No newline at end of file
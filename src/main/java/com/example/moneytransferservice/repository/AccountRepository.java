@@ -51,12 +51,76 @@ public interface AccountRepository extends CrudRepository<Account, Long> {
     int updateBalance(@Param("id") Long id, @Param("amount") BigDecimal amount);
 
     /**
-     * Find accounts with negative balance (potential overdrafts)
+     * Debit an account only if the funds are available. Available funds are the
+     * balance plus the credit limit, minus anything already held.
      *
-     * @return List of accounts with negative balance
+     * @param id The account ID
+     * @param amount The amount to subtract (positive)
+     * @return Number of rows affected (0 if the account lacks sufficient funds)
+     */
+    @Modifying
+    @Query("UPDATE accounts SET balance = balance - :amount, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE id = :id AND balance + credit_limit - held_amount >= :amount")
+    int debitIfSufficientFunds(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Reserve funds on an account only if they are available
+     *
+     * @param id The account ID
+     * @param amount The amount to hold (positive)
+     * @return Number of rows affected (0 if the account lacks sufficient funds)
+     */
+    @Modifying
+    @Query("UPDATE accounts SET held_amount = held_amount + :amount, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE id = :id AND balance + credit_limit - held_amount >= :amount")
+    int holdFunds(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Debit previously held funds, releasing the hold at the same time
+     *
+     * @param id The account ID
+     * @param amount The held amount to debit (positive)
+     * @return Number of rows affected (0 if less than the amount is held)
+     */
+    @Modifying
+    @Query("UPDATE accounts SET balance = balance - :amount, held_amount = held_amount - :amount, " +
+           "updated_at = CURRENT_TIMESTAMP WHERE id = :id AND held_amount >= :amount")
+    int captureHeldFunds(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Give previously held funds back to the account without debiting them
+     *
+     * @param id The account ID
+     * @param amount The held amount to release (positive)
+     * @return Number of rows affected (0 if less than the amount is held)
+     */
+    @Modifying
+    @Query("UPDATE accounts SET held_amount = held_amount - :amount, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE id = :id AND held_amount >= :amount")
+    int releaseHeldFunds(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Set an account's credit limit, but only if the account's current balance
+     * and holds stay within the new limit
+     *
+     * @param id The account ID
+     * @param creditLimit The new credit limit (zero or positive)
+     * @return Number of rows affected (0 if the account would be over its new limit)
+     */
+    @Modifying
+    @Query("UPDATE accounts SET credit_limit = :creditLimit, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE id = :id AND balance + :creditLimit - held_amount >= 0")
+    int updateCreditLimit(@Param("id") Long id, @Param("creditLimit") BigDecimal creditLimit);
+
+    /**
+     * Find accounts overdrawn beyond their credit limit. A negative balance within
+     * the limit is normal overdraft use; anything past it points at a debit that
+     * bypassed the conditional updates.
+     *
+     * @return List of accounts whose balance is below their credit limit
      */
-    @Query("SELECT * FROM accounts WHERE balance < 0")
-    List<Account> findAccountsWithNegativeBalance();
+    @Query("SELECT * FROM accounts WHERE balance + credit_limit < 0")
+    List<Account> findAccountsOverCreditLimit();
 
     /**
      * Optional custom finder to get an account with pessimistic locking
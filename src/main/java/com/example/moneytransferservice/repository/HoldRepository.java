@@ -0,0 +1,25 @@
+package com.example.moneytransferservice.repository;
+
+import com.example.moneytransferservice.model.Hold;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface HoldRepository extends CrudRepository<Hold, Long> {
+
+    /**
+     * Move a hold from one status to another, but only if it is still in the
+     * expected status. A capture racing a release therefore only succeeds once.
+     *
+     * @param id The hold ID
+     * @param expectedStatus The status the hold must currently have
+     * @param newStatus The status to move the hold to
+     * @return Number of rows affected (0 if the hold was not in the expected status)
+     */
+    @Modifying
+    @Query("UPDATE holds SET status = :newStatus WHERE id = :id AND status = :expectedStatus")
+    int updateStatus(@Param("id") Long id,
+                     @Param("expectedStatus") String expectedStatus,
+                     @Param("newStatus") String newStatus);
+}
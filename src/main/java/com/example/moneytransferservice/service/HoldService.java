@@ -0,0 +1,138 @@
+package com.example.moneytransferservice.service;
+
+import com.example.moneytransferservice.exception.HoldNotAuthorizedException;
+import com.example.moneytransferservice.exception.HoldNotFoundException;
+import com.example.moneytransferservice.exception.InsufficientFundsException;
+import com.example.moneytransferservice.model.Account;
+import com.example.moneytransferservice.model.Hold;
+import com.example.moneytransferservice.model.Transaction;
+import com.example.moneytransferservice.repository.AccountRepository;
+import com.example.moneytransferservice.repository.HoldRepository;
+import com.example.moneytransferservice.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+@Service
+public class HoldService {
+
+    private final AccountRepository accountRepository;
+    private final HoldRepository holdRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Autowired
+    public HoldService(AccountRepository accountRepository,
+                       HoldRepository holdRepository,
+                       TransactionRepository transactionRepository) {
+        this.accountRepository = accountRepository;
+        this.holdRepository = holdRepository;
+        this.transactionRepository = transactionRepository;
+    }
+
+    /**
+     * Reserve funds on the source account for a later transfer
+     *
+     * @param fromAccountId Account to hold the funds on
+     * @param toAccountId Account the funds will be transferred to on capture
+     * @param amount Amount to hold
+     * @return The created hold
+     * @throws IllegalArgumentException If validation fails
+     * @throws InsufficientFundsException If the source account lacks sufficient funds
+     * @throws RuntimeException If accounts not found
+     */
+    @Transactional
+    public Hold authorize(Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        // Validate amount
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Hold amount must be positive");
+        }
+
+        Account fromAccount = accountRepository.findById(fromAccountId)
+            .orElseThrow(() -> new RuntimeException("Source account not found: " + fromAccountId));
+
+        Account toAccount = accountRepository.findById(toAccountId)
+            .orElseThrow(() -> new RuntimeException("Destination account not found: " + toAccountId));
+
+        // Validate currency match
+        if (!fromAccount.getCurrency().equals(toAccount.getCurrency())) {
+            throw new IllegalArgumentException("Currency mismatch between accounts");
+        }
+
+        // Reserve the funds; the update only applies if funds are available
+        if (accountRepository.holdFunds(fromAccountId, amount) == 0) {
+            throw new InsufficientFundsException(fromAccountId);
+        }
+
+        Hold hold = new Hold(
+            fromAccountId,
+            toAccountId,
+            amount,
+            fromAccount.getCurrency(),
+            "AUTHORIZED"
+        );
+
+        return holdRepository.save(hold);
+    }
+
+    /**
+     * Transfer previously held funds to the destination account
+     *
+     * @param holdId The hold ID
+     * @return The created transaction record
+     * @throws HoldNotAuthorizedException If the hold is no longer authorized
+     * @throws HoldNotFoundException If the hold is not found
+     */
+    @Transactional
+    public Transaction capture(Long holdId) {
+        Hold hold = holdRepository.findById(holdId)
+            .orElseThrow(() -> new HoldNotFoundException(holdId));
+
+        // Claim the hold first so a concurrent capture or release cannot apply it twice
+        if (holdRepository.updateStatus(holdId, "AUTHORIZED", "CAPTURED") == 0) {
+            throw new HoldNotAuthorizedException(holdId);
+        }
+
+        if (accountRepository.captureHeldFunds(hold.getFromAccountId(), hold.getAmount()) == 0) {
+            throw new IllegalStateException("Held funds missing on account: " + hold.getFromAccountId());
+        }
+        accountRepository.updateBalance(hold.getToAccountId(), hold.getAmount());
+
+        // Record the transaction
+        Transaction transaction = new Transaction(
+            hold.getFromAccountId(),
+            hold.getToAccountId(),
+            hold.getAmount(),
+            hold.getCurrency(),
+            "COMPLETED"
+        );
+
+        return transactionRepository.save(transaction);
+    }
+
+    /**
+     * Cancel a hold and make its funds available again
+     *
+     * @param holdId The hold ID
+     * @return The released hold
+     * @throws HoldNotAuthorizedException If the hold is no longer authorized
+     * @throws HoldNotFoundException If the hold is not found
+     */
+    @Transactional
+    public Hold release(Long holdId) {
+        Hold hold = holdRepository.findById(holdId)
+            .orElseThrow(() -> new HoldNotFoundException(holdId));
+
+        if (holdRepository.updateStatus(holdId, "AUTHORIZED", "RELEASED") == 0) {
+            throw new HoldNotAuthorizedException(holdId);
+        }
+
+        if (accountRepository.releaseHeldFunds(hold.getFromAccountId(), hold.getAmount()) == 0) {
+            throw new IllegalStateException("Held funds missing on account: " + hold.getFromAccountId());
+        }
+
+        hold.setStatus("RELEASED");
+        return hold;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.moneytransferservice.service;
 
+import com.example.moneytransferservice.exception.InsufficientFundsException;
 import com.example.moneytransferservice.model.Account;
 import com.example.moneytransferservice.model.Transaction;
 import com.example.moneytransferservice.repository.AccountRepository;
@@ -31,6 +32,7 @@ public class TransferService {
      * @param amount Amount to transfer
      * @return The created transaction record
      * @throws IllegalArgumentException If validation fails
+     * @throws InsufficientFundsException If the source account lacks sufficient funds
      * @throws RuntimeException If accounts not found or other errors
      */
     @Transactional
@@ -52,8 +54,10 @@ public class TransferService {
             throw new IllegalArgumentException("Currency mismatch between accounts");
         }
         
-        // Perform the transfer
-        accountRepository.updateBalance(fromAccountId, amount.negate());
+        // Perform the transfer; the debit only applies if funds are available
+        if (accountRepository.debitIfSufficientFunds(fromAccountId, amount) == 0) {
+            throw new InsufficientFundsException(fromAccountId);
+        }
         accountRepository.updateBalance(toAccountId, amount);
         
         // Record the transaction
@@ -0,0 +1,140 @@
+package com.example.moneytransferservice;
+
+import com.example.moneytransferservice.model.Account;
+import com.example.moneytransferservice.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the conditional balance updates against the real database (db/init.sql).
+ * Each test rolls back, so the seed data is left untouched.
+ */
+@SpringBootTest
+@Transactional
+class AccountRepositoryTests {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private Long createAccount(String balance, String creditLimit) {
+        Account account = new Account("Tester", new BigDecimal(balance), "USD");
+        Long id = accountRepository.save(account).getId();
+        accountRepository.updateCreditLimit(id, new BigDecimal(creditLimit));
+        return id;
+    }
+
+    private Account reload(Long id) {
+        return accountRepository.findById(id).orElseThrow();
+    }
+
+    @Test
+    public void testDebitBeyondCreditLimitIsRejected() {
+        // Prepare
+        Long id = createAccount("100.00", "50.00");
+
+        // Act
+        int updated = accountRepository.debitIfSufficientFunds(id, new BigDecimal("150.01"));
+
+        // Assert
+        assertEquals(0, updated);
+        assertEquals(0, new BigDecimal("100.00").compareTo(reload(id).getBalance()));
+    }
+
+    @Test
+    public void testDebitWithinCreditLimitGoesNegative() {
+        // Prepare
+        Long id = createAccount("100.00", "50.00");
+
+        // Act
+        int updated = accountRepository.debitIfSufficientFunds(id, new BigDecimal("150.00"));
+
+        // Assert
+        assertEquals(1, updated);
+        assertEquals(0, new BigDecimal("-50.00").compareTo(reload(id).getBalance()));
+    }
+
+    @Test
+    public void testHoldReducesAvailableFunds() {
+        // Prepare
+        Long id = createAccount("100.00", "0.00");
+        assertEquals(1, accountRepository.holdFunds(id, new BigDecimal("70.00")));
+
+        // Act & Assert
+        assertEquals(0, accountRepository.debitIfSufficientFunds(id, new BigDecimal("30.01")));
+        assertEquals(0, accountRepository.holdFunds(id, new BigDecimal("30.01")));
+        assertEquals(1, accountRepository.debitIfSufficientFunds(id, new BigDecimal("30.00")));
+
+        Account account = reload(id);
+        assertEquals(0, new BigDecimal("70.00").compareTo(account.getBalance()));
+        assertEquals(0, new BigDecimal("70.00").compareTo(account.getHeldAmount()));
+    }
+
+    @Test
+    public void testCaptureHeldFunds() {
+        // Prepare
+        Long id = createAccount("100.00", "0.00");
+        accountRepository.holdFunds(id, new BigDecimal("40.00"));
+
+        // Act
+        int updated = accountRepository.captureHeldFunds(id, new BigDecimal("40.00"));
+
+        // Assert
+        assertEquals(1, updated);
+        Account account = reload(id);
+        assertEquals(0, new BigDecimal("60.00").compareTo(account.getBalance()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(account.getHeldAmount()));
+        assertEquals(0, accountRepository.captureHeldFunds(id, new BigDecimal("40.00")));
+    }
+
+    @Test
+    public void testReleaseHeldFunds() {
+        // Prepare
+        Long id = createAccount("100.00", "0.00");
+        accountRepository.holdFunds(id, new BigDecimal("40.00"));
+
+        // Act
+        int updated = accountRepository.releaseHeldFunds(id, new BigDecimal("40.00"));
+
+        // Assert
+        assertEquals(1, updated);
+        Account account = reload(id);
+        assertEquals(0, new BigDecimal("100.00").compareTo(account.getBalance()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(account.getHeldAmount()));
+        assertEquals(0, accountRepository.releaseHeldFunds(id, new BigDecimal("40.00")));
+    }
+
+    @Test
+    public void testFindAccountsOverCreditLimit() {
+        // Prepare
+        Long withinLimit = createAccount("-30.00", "50.00");
+        Long overLimit = createAccount("-60.00", "0.00");
+
+        // Act
+        List<Long> ids = accountRepository.findAccountsOverCreditLimit().stream()
+                .map(Account::getId)
+                .toList();
+
+        // Assert
+        assertTrue(ids.contains(overLimit));
+        assertFalse(ids.contains(withinLimit));
+    }
+
+    @Test
+    public void testCreditLimitCannotDropBelowCurrentUse() {
+        // Prepare
+        Long id = createAccount("100.00", "50.00");
+        accountRepository.debitIfSufficientFunds(id, new BigDecimal("130.00"));
+
+        // Act & Assert
+        assertEquals(0, accountRepository.updateCreditLimit(id, new BigDecimal("29.99")));
+        assertEquals(1, accountRepository.updateCreditLimit(id, new BigDecimal("30.00")));
+        assertEquals(0, new BigDecimal("30.00").compareTo(reload(id).getCreditLimit()));
+    }
+}
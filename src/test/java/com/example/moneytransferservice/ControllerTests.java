@@ -0,0 +1,163 @@
+package com.example.moneytransferservice;
+
+import com.example.moneytransferservice.controller.AccountController;
+import com.example.moneytransferservice.controller.HoldController;
+import com.example.moneytransferservice.controller.TransferController;
+import com.example.moneytransferservice.exception.HoldNotAuthorizedException;
+import com.example.moneytransferservice.exception.HoldNotFoundException;
+import com.example.moneytransferservice.exception.InsufficientFundsException;
+import com.example.moneytransferservice.model.Account;
+import com.example.moneytransferservice.repository.AccountRepository;
+import com.example.moneytransferservice.repository.HoldRepository;
+import com.example.moneytransferservice.repository.TransactionRepository;
+import com.example.moneytransferservice.service.HoldService;
+import com.example.moneytransferservice.service.TransferService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({AccountController.class, TransferController.class, HoldController.class})
+@ActiveProfiles("test")
+class ControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransferService transferService;
+
+    @MockBean
+    private HoldService holdService;
+
+    @MockBean
+    private AccountRepository accountRepository;
+
+    @MockBean
+    private TransactionRepository transactionRepository;
+
+    @MockBean
+    private HoldRepository holdRepository;
+
+    @Test
+    public void testTransferInsufficientFundsReturnsConflict() throws Exception {
+        // Prepare
+        when(transferService.transferMoney(eq(1L), eq(2L), any(BigDecimal.class)))
+            .thenThrow(new InsufficientFundsException(1L));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fromAccountId\": 1, \"toAccountId\": 2, \"amount\": 25.00}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("Insufficient funds in source account: 1"));
+    }
+
+    @Test
+    public void testHoldInsufficientFundsReturnsConflict() throws Exception {
+        // Prepare
+        when(holdService.authorize(eq(1L), eq(2L), any(BigDecimal.class)))
+            .thenThrow(new InsufficientFundsException(1L));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/holds")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fromAccountId\": 1, \"toAccountId\": 2, \"amount\": 25.00}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("Insufficient funds in source account: 1"));
+    }
+
+    @Test
+    public void testCaptureSettledHoldReturnsConflict() throws Exception {
+        // Prepare
+        when(holdService.capture(7L)).thenThrow(new HoldNotAuthorizedException(7L));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/holds/7/capture"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("Hold is not authorized: 7"));
+    }
+
+    @Test
+    public void testUnknownHoldReturnsNotFound() throws Exception {
+        // Prepare
+        when(holdService.capture(99L)).thenThrow(new HoldNotFoundException(99L));
+        when(holdService.release(99L)).thenThrow(new HoldNotFoundException(99L));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/holds/99/capture"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("Hold not found: 99"));
+        mockMvc.perform(post("/api/holds/99/release"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testNegativeCreditLimitIsRejected() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/accounts/1/credit-limit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"creditLimit\": -10.00}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/accounts/1/credit-limit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"creditLimit\": null}"))
+            .andExpect(status().isBadRequest());
+        verify(accountRepository, never()).updateCreditLimit(any(Long.class), any(BigDecimal.class));
+    }
+
+    @Test
+    public void testCreditLimitUpdate() throws Exception {
+        // Prepare
+        Account account = new Account("Alice", new BigDecimal("100.00"), "USD");
+        account.setId(1L);
+        account.setCreditLimit(new BigDecimal("50.00"));
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(accountRepository.updateCreditLimit(eq(1L), any(BigDecimal.class))).thenReturn(1);
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/accounts/1/credit-limit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"creditLimit\": 50.00}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.creditLimit").value(50.00));
+        verify(accountRepository).updateCreditLimit(eq(1L), eq(new BigDecimal("50.00")));
+    }
+
+    @Test
+    public void testAccountUpdateIgnoresCreditLimit() throws Exception {
+        // Prepare
+        Account stored = new Account("Alice", new BigDecimal("100.00"), "USD");
+        stored.setId(1L);
+        stored.setCreditLimit(new BigDecimal("50.00"));
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(accountRepository.save(any(Account.class))).thenAnswer(i -> i.getArgument(0));
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/accounts/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ownerName\": \"Alice\", \"balance\": 100.00, \"currency\": \"USD\", \"creditLimit\": 999.00}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.creditLimit").value(50.00));
+        verify(accountRepository).save(argThat(a -> a.getCreditLimit().signum() == 0));
+    }
+}
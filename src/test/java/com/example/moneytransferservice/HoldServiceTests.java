@@ -0,0 +1,151 @@
+package com.example.moneytransferservice;
+
+import com.example.moneytransferservice.exception.HoldNotAuthorizedException;
+import com.example.moneytransferservice.exception.InsufficientFundsException;
+import com.example.moneytransferservice.model.Account;
+import com.example.moneytransferservice.model.Hold;
+import com.example.moneytransferservice.model.Transaction;
+import com.example.moneytransferservice.repository.AccountRepository;
+import com.example.moneytransferservice.repository.HoldRepository;
+import com.example.moneytransferservice.repository.TransactionRepository;
+import com.example.moneytransferservice.service.HoldService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class HoldServiceTests {
+
+    @Autowired
+    private HoldService holdService;
+
+    @MockBean
+    private AccountRepository accountRepository;
+
+    @MockBean
+    private HoldRepository holdRepository;
+
+    @MockBean
+    private TransactionRepository transactionRepository;
+
+    @Test
+    public void testAuthorizeSuccess() {
+        // Prepare
+        Account fromAccount = new Account("Alice", new BigDecimal("100.00"), "USD");
+        fromAccount.setId(1L);
+        Account toAccount = new Account("Bob", new BigDecimal("50.00"), "USD");
+        toAccount.setId(2L);
+
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(toAccount));
+        when(accountRepository.holdFunds(eq(1L), any(BigDecimal.class))).thenReturn(1);
+        when(holdRepository.save(any(Hold.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        Hold hold = holdService.authorize(1L, 2L, new BigDecimal("40.00"));
+
+        // Assert
+        assertEquals(1L, hold.getFromAccountId());
+        assertEquals(2L, hold.getToAccountId());
+        assertEquals(new BigDecimal("40.00"), hold.getAmount());
+        assertEquals("USD", hold.getCurrency());
+        assertEquals("AUTHORIZED", hold.getStatus());
+        verify(accountRepository).holdFunds(eq(1L), eq(new BigDecimal("40.00")));
+        verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
+    }
+
+    @Test
+    public void testAuthorizeInsufficientFunds() {
+        // Prepare
+        Account fromAccount = new Account("Alice", new BigDecimal("10.00"), "USD");
+        fromAccount.setId(1L);
+        Account toAccount = new Account("Bob", new BigDecimal("50.00"), "USD");
+        toAccount.setId(2L);
+
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(toAccount));
+        when(accountRepository.holdFunds(eq(1L), any(BigDecimal.class))).thenReturn(0);
+
+        // Act & Assert
+        InsufficientFundsException exception = assertThrows(InsufficientFundsException.class, () -> {
+            holdService.authorize(1L, 2L, new BigDecimal("40.00"));
+        });
+
+        assertTrue(exception.getMessage().contains("Insufficient funds"));
+        verify(holdRepository, never()).save(any(Hold.class));
+    }
+
+    @Test
+    public void testCaptureSuccess() {
+        // Prepare
+        Hold hold = new Hold(1L, 2L, new BigDecimal("40.00"), "USD", "AUTHORIZED");
+        hold.setId(7L);
+
+        when(holdRepository.findById(7L)).thenReturn(Optional.of(hold));
+        when(holdRepository.updateStatus(7L, "AUTHORIZED", "CAPTURED")).thenReturn(1);
+        when(accountRepository.captureHeldFunds(eq(1L), any(BigDecimal.class))).thenReturn(1);
+        when(accountRepository.updateBalance(eq(2L), any(BigDecimal.class))).thenReturn(1);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        Transaction transaction = holdService.capture(7L);
+
+        // Assert
+        assertEquals(1L, transaction.getFromAccountId());
+        assertEquals(2L, transaction.getToAccountId());
+        assertEquals(new BigDecimal("40.00"), transaction.getAmount());
+        assertEquals("COMPLETED", transaction.getStatus());
+        verify(accountRepository).captureHeldFunds(eq(1L), eq(new BigDecimal("40.00")));
+        verify(accountRepository).updateBalance(eq(2L), eq(new BigDecimal("40.00")));
+    }
+
+    @Test
+    public void testCaptureAlreadySettledHold() {
+        // Prepare
+        Hold hold = new Hold(1L, 2L, new BigDecimal("40.00"), "USD", "RELEASED");
+        hold.setId(7L);
+
+        when(holdRepository.findById(7L)).thenReturn(Optional.of(hold));
+        when(holdRepository.updateStatus(7L, "AUTHORIZED", "CAPTURED")).thenReturn(0);
+
+        // Act & Assert
+        HoldNotAuthorizedException exception = assertThrows(HoldNotAuthorizedException.class, () -> {
+            holdService.capture(7L);
+        });
+
+        assertTrue(exception.getMessage().contains("not authorized"));
+        verify(accountRepository, never()).captureHeldFunds(any(Long.class), any(BigDecimal.class));
+        verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    public void testRelease() {
+        // Prepare
+        Hold hold = new Hold(1L, 2L, new BigDecimal("40.00"), "USD", "AUTHORIZED");
+        hold.setId(7L);
+
+        when(holdRepository.findById(7L)).thenReturn(Optional.of(hold));
+        when(holdRepository.updateStatus(7L, "AUTHORIZED", "RELEASED")).thenReturn(1);
+        when(accountRepository.releaseHeldFunds(eq(1L), any(BigDecimal.class))).thenReturn(1);
+
+        // Act
+        Hold released = holdService.release(7L);
+
+        // Assert
+        assertEquals("RELEASED", released.getStatus());
+        verify(accountRepository).releaseHeldFunds(eq(1L), eq(new BigDecimal("40.00")));
+        verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
+    }
+}
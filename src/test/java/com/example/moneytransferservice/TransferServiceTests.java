@@ -1,5 +1,6 @@
 package com.example.moneytransferservice;
 
+import com.example.moneytransferservice.exception.InsufficientFundsException;
 import com.example.moneytransferservice.model.Account;
 import com.example.moneytransferservice.model.Transaction;
 import com.example.moneytransferservice.repository.AccountRepository;
@@ -62,7 +63,7 @@ class TransferServiceTests {
 
         when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(fromAccount));
         when(accountRepository.findByIdWithLock(2L)).thenReturn(Optional.of(toAccount));
-        when(accountRepository.updateBalance(eq(1L), any(BigDecimal.class))).thenReturn(1);
+        when(accountRepository.debitIfSufficientFunds(eq(1L), any(BigDecimal.class))).thenReturn(1);
         when(accountRepository.updateBalance(eq(2L), any(BigDecimal.class))).thenReturn(1);
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -75,7 +76,7 @@ class TransferServiceTests {
         assertEquals(2L, transaction.getToAccountId());
         assertEquals(new BigDecimal("25.00"), transaction.getAmount());
         assertEquals("COMPLETED", transaction.getStatus());
-        verify(accountRepository).updateBalance(eq(1L), eq(new BigDecimal("25.00").negate()));
+        verify(accountRepository).debitIfSufficientFunds(eq(1L), eq(new BigDecimal("25.00")));
         verify(accountRepository).updateBalance(eq(2L), eq(new BigDecimal("25.00")));
     }
 
@@ -97,9 +98,32 @@ class TransferServiceTests {
         });
 
         assertTrue(exception.getMessage().contains("Currency mismatch"));
+        verify(accountRepository, never()).debitIfSufficientFunds(any(Long.class), any(BigDecimal.class));
         verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
     }
 
+    @Test
+    public void testInsufficientFunds() {
+        // Prepare
+        Account fromAccount = new Account("Alice", new BigDecimal("10.00"), "USD");
+        fromAccount.setId(1L);
+        Account toAccount = new Account("Bob", new BigDecimal("50.00"), "USD");
+        toAccount.setId(2L);
+
+        when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findByIdWithLock(2L)).thenReturn(Optional.of(toAccount));
+        when(accountRepository.debitIfSufficientFunds(eq(1L), any(BigDecimal.class))).thenReturn(0);
+
+        // Act & Assert
+        InsufficientFundsException exception = assertThrows(InsufficientFundsException.class, () -> {
+            transferService.transferMoney(1L, 2L, new BigDecimal("25.00"));
+        });
+
+        assertTrue(exception.getMessage().contains("Insufficient funds"));
+        verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
     @Test
     public void testAccountNotFound() {
         // Prepare
@@ -111,6 +135,7 @@ class TransferServiceTests {
         });
 
         assertTrue(exception.getMessage().contains("Source account not found"));
+        verify(accountRepository, never()).debitIfSufficientFunds(any(Long.class), any(BigDecimal.class));
         verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
     }
 
@@ -123,6 +148,7 @@ class TransferServiceTests {
 
         assertTrue(exception.getMessage().contains("must be positive"));
         verify(accountRepository, never()).findByIdWithLock(any(Long.class));
+        verify(accountRepository, never()).debitIfSufficientFunds(any(Long.class), any(BigDecimal.class));
         verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
     }
 
@@ -135,6 +161,7 @@ class TransferServiceTests {
 
         assertTrue(exception.getMessage().contains("must be positive"));
         verify(accountRepository, never()).findByIdWithLock(any(Long.class));
+        verify(accountRepository, never()).debitIfSufficientFunds(any(Long.class), any(BigDecimal.class));
         verify(accountRepository, never()).updateBalance(any(Long.class), any(BigDecimal.class));
     }
 
@@ -148,6 +175,7 @@ class TransferServiceTests {
 
         when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(fromAccount));
         when(accountRepository.findByIdWithLock(2L)).thenReturn(Optional.of(toAccount));
+        when(accountRepository.debitIfSufficientFunds(any(Long.class), any(BigDecimal.class))).thenReturn(1);
         when(accountRepository.updateBalance(any(Long.class), any(BigDecimal.class))).thenReturn(1);
 
         Transaction expectedTransaction = new Transaction(1L, 2L, new BigDecimal("25.00"), "USD", "COMPLETED");
@@ -179,6 +207,7 @@ class TransferServiceTests {
         account.setId(5L);
 
         when(accountRepository.findByIdWithLock(any(Long.class))).thenReturn(Optional.of(account));
+        when(accountRepository.debitIfSufficientFunds(any(Long.class), any(BigDecimal.class))).thenReturn(1);
         when(accountRepository.updateBalance(any(Long.class), any(BigDecimal.class))).thenReturn(1);
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -198,7 +227,7 @@ class TransferServiceTests {
 
         // Assert
         verify(accountRepository, times(numberOfThreads * 2)).findByIdWithLock(any(Long.class));
-        verify(accountRepository, times(numberOfThreads)).updateBalance(eq(5L), eq(new BigDecimal("10.00").negate()));
+        verify(accountRepository, times(numberOfThreads)).debitIfSufficientFunds(eq(5L), eq(new BigDecimal("10.00")));
         verify(accountRepository, times(numberOfThreads)).updateBalance(eq(6L), eq(new BigDecimal("10.00")));
         verify(transactionRepository, times(numberOfThreads)).save(any(Transaction.class));
     }